@@ -0,0 +1,39 @@
+package com.lcwd.hotel.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyInitConfigTests {
+
+	@Test
+	void marksOnlySpringDocBeansLazy() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("springDocConfiguration",
+				definition("org.springdoc.core.configuration.SpringDocConfiguration"));
+		GenericBeanDefinition factoryMethodBean = new GenericBeanDefinition();
+		factoryMethodBean.setFactoryBeanName("springDocConfiguration");
+		factoryMethodBean.setFactoryMethodName("openApiResource");
+		beanFactory.registerBeanDefinition("openApiResource", factoryMethodBean);
+		beanFactory.registerBeanDefinition("swaggerWelcome",
+				definition("org.springdoc.webmvc.ui.SwaggerWelcomeWebMvc"));
+		beanFactory.registerBeanDefinition("applicationController",
+				definition(LazyInitConfigTests.class.getName()));
+
+		LazyInitConfig.lazyOpenApiBeans().postProcessBeanFactory(beanFactory);
+
+		assertTrue(beanFactory.getBeanDefinition("springDocConfiguration").isLazyInit());
+		assertTrue(beanFactory.getBeanDefinition("openApiResource").isLazyInit());
+		assertTrue(beanFactory.getBeanDefinition("swaggerWelcome").isLazyInit());
+		assertFalse(beanFactory.getBeanDefinition("applicationController").isLazyInit());
+	}
+
+	private static AbstractBeanDefinition definition(String className) {
+		return BeanDefinitionBuilder.genericBeanDefinition(className).getBeanDefinition();
+	}
+}
@@ -0,0 +1,69 @@
+package com.lcwd.hotel.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupTimingFilterTests {
+
+	private SimpleMeterRegistry meterRegistry;
+	private StartupTimingFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		filter = new StartupTimingFilter(meterRegistry);
+	}
+
+	@Test
+	void recordsFirstHealthThenFirstRequest() throws Exception {
+		assertTrue(Double.isNaN(gauge("application.startup.first.health")));
+		assertTrue(Double.isNaN(gauge("application.startup.first.request")));
+
+		serve("/actuator/health", 200);
+		double health = gauge("application.startup.first.health");
+		assertFalse(Double.isNaN(health));
+		assertTrue(Double.isNaN(gauge("application.startup.first.request")));
+
+		serve("/hotels", 200);
+		double request = gauge("application.startup.first.request");
+		assertFalse(Double.isNaN(request));
+		assertTrue(request >= health);
+
+		serve("/actuator/health", 200);
+		serve("/hotels", 200);
+		assertTrue(gauge("application.startup.first.health") == health);
+		assertTrue(gauge("application.startup.first.request") == request);
+	}
+
+	@Test
+	void errorResponsesAndOtherActuatorEndpointsDoNotCount() throws Exception {
+		serve("/actuator/health", 503);
+		serve("/hotels", 500);
+		serve("/hotels/missing", 404);
+		serve("/actuator/info", 200);
+
+		assertTrue(Double.isNaN(gauge("application.startup.first.health")));
+		assertTrue(Double.isNaN(gauge("application.startup.first.request")));
+	}
+
+	private void serve(String path, int status) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain chain = (req, res) -> ((HttpServletResponse) res).setStatus(status);
+		filter.doFilter(request, response, chain);
+	}
+
+	private double gauge(String name) {
+		return meterRegistry.get(name).timeGauge().value(TimeUnit.MILLISECONDS);
+	}
+}
@@ -0,0 +1,103 @@
+-- Compares the flat, hash-partitioned and range-partitioned ratings layouts on
+-- synthetic data in a scratch database (it creates and drops bench_* tables).
+--   psql -d ratings_bench -v rows=10000000 -f ratings_benchmark.sql > bench-10m.txt
+--   psql -d ratings_bench -v rows=100000000 -f ratings_benchmark.sql > bench-100m.txt
+-- Ratings are spread over :hotels hotels, :users users and the last :months months.
+\set ON_ERROR_STOP on
+\timing on
+\if :{?rows}
+\else
+\set rows 10000000
+\endif
+\if :{?hotels}
+\else
+\set hotels 100000
+\endif
+\if :{?users}
+\else
+\set users 1000000
+\endif
+\if :{?months}
+\else
+\set months 24
+\endif
+\if :{?partitions}
+\else
+\set partitions 16
+\endif
+
+DROP TABLE IF EXISTS bench_rating_flat, bench_rating_hash, bench_rating_range;
+
+CREATE TABLE bench_rating_flat (
+    id VARCHAR(255) PRIMARY KEY,
+    user_id VARCHAR(255),
+    hotel_id VARCHAR(255) NOT NULL,
+    rating INTEGER,
+    feedback VARCHAR(255),
+    created_at TIMESTAMPTZ NOT NULL
+);
+
+-- Load: same rows for every layout
+INSERT INTO bench_rating_flat
+SELECT 'r' || i,
+       'u' || (i % :users),
+       'h' || ((i * 7919) % :hotels),
+       1 + i % 5,
+       'feedback ' || i,
+       now() - make_interval(secs => (i % (:months * 30 * 86400)))
+FROM generate_series(1, :rows) AS i;
+CREATE INDEX ON bench_rating_flat (user_id);
+CREATE INDEX ON bench_rating_flat (hotel_id);
+
+CREATE TABLE bench_rating_hash (LIKE bench_rating_flat) PARTITION BY HASH (hotel_id);
+ALTER TABLE bench_rating_hash ADD PRIMARY KEY (id, hotel_id);
+SELECT format('CREATE TABLE bench_rating_hash_p%s PARTITION OF bench_rating_hash FOR VALUES WITH (MODULUS %s, REMAINDER %s)',
+              r, :partitions, r)
+FROM generate_series(0, :partitions - 1) AS r
+\gexec
+INSERT INTO bench_rating_hash SELECT * FROM bench_rating_flat;
+CREATE INDEX ON bench_rating_hash (user_id);
+CREATE INDEX ON bench_rating_hash (hotel_id);
+
+CREATE TABLE bench_rating_range (LIKE bench_rating_flat) PARTITION BY RANGE (created_at);
+ALTER TABLE bench_rating_range ADD PRIMARY KEY (id, created_at);
+SELECT format('CREATE TABLE bench_rating_range_%s PARTITION OF bench_rating_range FOR VALUES FROM (%L) TO (%L)',
+              to_char(m, 'YYYYMM'), m, m + interval '1 month')
+FROM generate_series(date_trunc('month', now() - make_interval(months => :months)),
+                     date_trunc('month', now()), interval '1 month') AS m
+\gexec
+INSERT INTO bench_rating_range SELECT * FROM bench_rating_flat;
+CREATE INDEX ON bench_rating_range (user_id);
+CREATE INDEX ON bench_rating_range (hotel_id);
+
+VACUUM ANALYZE bench_rating_flat;
+VACUUM ANALYZE bench_rating_hash;
+VACUUM ANALYZE bench_rating_range;
+
+-- Index sizes (what the unbounded growth costs findByUserId/findByHotelIdIn and REINDEX)
+SELECT relname, pg_size_pretty(pg_total_relation_size(oid)) AS total_size
+FROM pg_class
+WHERE relname IN ('bench_rating_flat', 'bench_rating_hash_p0', 'bench_rating_range_' || to_char(now(), 'YYYYMM'));
+
+-- findByUserId
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM bench_rating_flat WHERE user_id = 'u42';
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM bench_rating_hash WHERE user_id = 'u42';
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM bench_rating_range WHERE user_id = 'u42';
+
+-- findByUserIdAndCreatedAtGreaterThanEqual (last 30 days)
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM bench_rating_flat WHERE user_id = 'u42' AND created_at >= now() - interval '30 days';
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM bench_rating_range WHERE user_id = 'u42' AND created_at >= now() - interval '30 days';
+
+-- findByHotelIdIn (prepared, as Hibernate issues it, so runtime pruning is exercised)
+PREPARE by_hotels_flat(text, text, text) AS SELECT * FROM bench_rating_flat WHERE hotel_id IN ($1, $2, $3);
+PREPARE by_hotels_hash(text, text, text) AS SELECT * FROM bench_rating_hash WHERE hotel_id IN ($1, $2, $3);
+PREPARE by_hotels_range(text, text, text) AS SELECT * FROM bench_rating_range WHERE hotel_id IN ($1, $2, $3);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE by_hotels_flat('h1', 'h2', 'h3');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE by_hotels_hash('h1', 'h2', 'h3');
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE by_hotels_range('h1', 'h2', 'h3');
+
+-- Maintenance: whole table vs one partition
+REINDEX TABLE bench_rating_flat;
+REINDEX TABLE bench_rating_hash_p0;
+VACUUM bench_rating_flat;
+VACUUM bench_rating_hash_p0;
@@ -0,0 +1,12 @@
+-- Adds CREATED_AT, mapped by Rating.createdAt. Run before deploying the
+-- Rating-Service build that maps it, since ddl-auto=validate rejects a missing column.
+-- now() is evaluated once for the default, so existing rows are not rewritten.
+--
+-- micro_rating has never recorded when a rating was made, so every existing row
+-- is stamped with the time this script runs. Until they are backfilled, all of
+-- them are returned by any since earlier than the migration. If creation times are available elsewhere
+-- (an export, audit log or the ID generator), backfill them before running
+-- 02_range_by_created_at.sql, e.g.:
+--   UPDATE micro_rating r SET created_at = s.created_at
+--   FROM rating_created_at_source s WHERE s.id = r.id;
+ALTER TABLE micro_rating ADD COLUMN IF NOT EXISTS created_at TIMESTAMPTZ NOT NULL DEFAULT now();
@@ -0,0 +1,92 @@
+-- Rebuilds micro_rating as a table hash-partitioned by HOTEL_ID.
+--   psql -v partitions=16 -v batch_size=50000 -f 02_hash_by_hotel.sql
+-- findByHotelId/findByHotelIdIn only visit the partitions of the requested hotels;
+-- findByUserId visits every partition through its local USER_ID index.
+-- Existing rows are copied in committed batches while a trigger mirrors every
+-- write into the new table, so writes only wait for the rename at the end.
+-- The old table is kept as micro_rating_flat until it is dropped by hand.
+\set ON_ERROR_STOP on
+\if :{?partitions}
+\else
+\set partitions 16
+\endif
+\if :{?batch_size}
+\else
+\set batch_size 50000
+\endif
+
+-- HOTEL_ID becomes part of the primary key, but Rating.hotelId is optional in the API
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM micro_rating WHERE hotel_id IS NULL) THEN
+        RAISE EXCEPTION 'micro_rating has ratings without HOTEL_ID; assign or delete them before partitioning by hotel';
+    END IF;
+END
+$$;
+-- Rejects new ones until the swap; VALIDATE does not block writes
+ALTER TABLE micro_rating ADD CONSTRAINT micro_rating_hotel_id_not_null CHECK (hotel_id IS NOT NULL) NOT VALID;
+ALTER TABLE micro_rating VALIDATE CONSTRAINT micro_rating_hotel_id_not_null;
+
+CREATE TABLE micro_rating_partitioned (LIKE micro_rating INCLUDING DEFAULTS) PARTITION BY HASH (hotel_id);
+-- The primary key of a partitioned table must contain the partition key
+ALTER TABLE micro_rating_partitioned ADD PRIMARY KEY (id, hotel_id);
+CREATE INDEX ON micro_rating_partitioned (hotel_id);
+CREATE INDEX ON micro_rating_partitioned (user_id);
+
+SELECT format('CREATE TABLE micro_rating_p%s PARTITION OF micro_rating_partitioned FOR VALUES WITH (MODULUS %s, REMAINDER %s)',
+              r, :partitions, r)
+FROM generate_series(0, :partitions - 1) AS r
+\gexec
+
+CREATE FUNCTION mirror_rating_write() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM micro_rating_partitioned WHERE id = OLD.id AND hotel_id = OLD.hotel_id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO micro_rating_partitioned VALUES (NEW.*);
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+-- Waits for in-flight writes, so every later write is either mirrored or visible to the copy
+CREATE TRIGGER micro_rating_mirror AFTER INSERT OR UPDATE OR DELETE ON micro_rating
+    FOR EACH ROW EXECUTE FUNCTION mirror_rating_write();
+
+-- One transaction per batch. FOR SHARE makes concurrent updates and deletes of the
+-- batch wait for its commit, so their mirrored change lands after the copied row.
+-- Rows already mirrored are newer than the copy and are kept.
+CREATE PROCEDURE copy_ratings_in_batches(batch_size INTEGER) AS $$
+DECLARE
+    lower_id micro_rating.id%TYPE;
+    upper_id micro_rating.id%TYPE;
+BEGIN
+    SELECT min(id) INTO lower_id FROM micro_rating;
+    WHILE lower_id IS NOT NULL LOOP
+        upper_id := (SELECT id FROM micro_rating WHERE id >= lower_id ORDER BY id OFFSET batch_size LIMIT 1);
+        IF upper_id IS NULL THEN
+            INSERT INTO micro_rating_partitioned
+            SELECT * FROM micro_rating WHERE id >= lower_id FOR SHARE
+            ON CONFLICT DO NOTHING;
+        ELSE
+            INSERT INTO micro_rating_partitioned
+            SELECT * FROM micro_rating WHERE id >= lower_id AND id < upper_id FOR SHARE
+            ON CONFLICT DO NOTHING;
+        END IF;
+        COMMIT;
+        lower_id := upper_id;
+    END LOOP;
+END
+$$ LANGUAGE plpgsql;
+CALL copy_ratings_in_batches(:batch_size);
+
+BEGIN;
+LOCK TABLE micro_rating IN ACCESS EXCLUSIVE MODE;
+DROP TRIGGER micro_rating_mirror ON micro_rating;
+ALTER TABLE micro_rating RENAME TO micro_rating_flat;
+ALTER TABLE micro_rating_partitioned RENAME TO micro_rating;
+COMMIT;
+
+DROP PROCEDURE copy_ratings_in_batches(INTEGER);
+DROP FUNCTION mirror_rating_write();
+ANALYZE micro_rating;
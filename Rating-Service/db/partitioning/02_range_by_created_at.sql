@@ -0,0 +1,75 @@
+-- Rebuilds micro_rating as a table range-partitioned by month of CREATED_AT.
+--   psql -v months_ahead=3 -f 02_range_by_created_at.sql
+-- Queries bounded by CREATED_AT (the since parameter of the ratings endpoints)
+-- only visit the matching months, and old months can be detached instead of vacuumed.
+-- Nothing is copied: the existing table becomes the partition micro_rating_legacy
+-- for everything created before next month, and monthly partitions start there.
+-- Its indexes and bound are built first without blocking writes, so writes only
+-- wait for the swap at the end.
+-- Rows that predate 01_add_created_at.sql carry its run time unless they were
+-- backfilled (see that script); they all stay in micro_rating_legacy either way.
+\set ON_ERROR_STOP on
+\if :{?months_ahead}
+\else
+\set months_ahead 3
+\endif
+SELECT date_trunc('month', now()) + interval '1 month' AS legacy_until
+\gset
+
+-- Matches the partitioned primary key and indexes below, so attaching builds nothing
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS micro_rating_legacy_id_created_at ON micro_rating (id, created_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS micro_rating_legacy_hotel_id ON micro_rating (hotel_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS micro_rating_legacy_user_id ON micro_rating (user_id);
+-- Proves the partition bound, so attaching does not scan the table; VALIDATE does not block writes
+ALTER TABLE micro_rating ADD CONSTRAINT micro_rating_legacy_bound CHECK (created_at < :'legacy_until') NOT VALID;
+ALTER TABLE micro_rating VALIDATE CONSTRAINT micro_rating_legacy_bound;
+
+BEGIN;
+CREATE TABLE micro_rating_partitioned (LIKE micro_rating INCLUDING DEFAULTS) PARTITION BY RANGE (created_at);
+-- The primary key of a partitioned table must contain the partition key
+ALTER TABLE micro_rating_partitioned ADD PRIMARY KEY (id, created_at);
+CREATE INDEX ON micro_rating_partitioned (hotel_id);
+CREATE INDEX ON micro_rating_partitioned (user_id);
+
+SELECT format('CREATE TABLE micro_rating_%s PARTITION OF micro_rating_partitioned FOR VALUES FROM (%L) TO (%L)',
+              to_char(m, 'YYYYMM'), m, m + interval '1 month')
+FROM generate_series(:'legacy_until'::timestamptz,
+                     date_trunc('month', now()) + make_interval(months => :months_ahead),
+                     interval '1 month') AS m
+\gexec
+-- Catches rows beyond the last month created; run create_rating_partitions before that happens
+CREATE TABLE micro_rating_default PARTITION OF micro_rating_partitioned DEFAULT;
+
+-- Writes wait from here until COMMIT; nothing below copies or scans rows
+LOCK TABLE micro_rating IN ACCESS EXCLUSIVE MODE;
+SELECT conname AS flat_pkey FROM pg_constraint WHERE conrelid = 'micro_rating'::regclass AND contype = 'p'
+\gset
+-- A partition cannot keep a primary key on ID alone; the unique index built above replaces it
+ALTER TABLE micro_rating DROP CONSTRAINT :"flat_pkey";
+ALTER TABLE micro_rating ADD CONSTRAINT micro_rating_legacy_pkey PRIMARY KEY USING INDEX micro_rating_legacy_id_created_at;
+ALTER TABLE micro_rating RENAME TO micro_rating_legacy;
+ALTER TABLE micro_rating_partitioned ATTACH PARTITION micro_rating_legacy FOR VALUES FROM (MINVALUE) TO (:'legacy_until');
+ALTER TABLE micro_rating_partitioned RENAME TO micro_rating;
+
+-- Schedule monthly (cron or pg_cron): SELECT create_rating_partitions(3);
+CREATE OR REPLACE FUNCTION create_rating_partitions(months_ahead INTEGER) RETURNS void AS $$
+DECLARE
+    m TIMESTAMPTZ;
+BEGIN
+    FOR m IN SELECT generate_series(date_trunc('month', now()),
+                                    date_trunc('month', now()) + make_interval(months => months_ahead),
+                                    interval '1 month')
+    LOOP
+        BEGIN
+            EXECUTE format('CREATE TABLE IF NOT EXISTS micro_rating_%s PARTITION OF micro_rating FOR VALUES FROM (%L) TO (%L)',
+                           to_char(m, 'YYYYMM'), m, m + interval '1 month');
+        EXCEPTION WHEN invalid_object_definition THEN
+            -- The month is still covered by micro_rating_legacy
+            NULL;
+        END;
+    END LOOP;
+END
+$$ LANGUAGE plpgsql;
+COMMIT;
+
+ANALYZE micro_rating;
@@ -0,0 +1,70 @@
+package com.lcdw.rating.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Startup-time report: records how long after JVM start the first successful
+ * /actuator/health probe and the first served request happened.
+ * Exposed as the application.startup.first.health and
+ * application.startup.first.request metrics.
+ */
+@Component
+public class StartupTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingFilter.class);
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final AtomicLong firstHealthMillis = new AtomicLong(-1);
+    private final AtomicLong firstRequestMillis = new AtomicLong(-1);
+
+    public StartupTimingFilter(MeterRegistry meterRegistry) {
+        TimeGauge.builder("application.startup.first.health", firstHealthMillis, TimeUnit.MILLISECONDS, StartupTimingFilter::valueOf)
+                .description("Time from JVM start to the first successful /actuator/health")
+                .register(meterRegistry);
+        TimeGauge.builder("application.startup.first.request", firstRequestMillis, TimeUnit.MILLISECONDS, StartupTimingFilter::valueOf)
+                .description("Time from JVM start to the first request served")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+
+        if ((firstHealthMillis.get() >= 0 && firstRequestMillis.get() >= 0) || response.getStatus() >= 400) {
+            return;
+        }
+        String path = request.getRequestURI();
+        if (path.startsWith("/actuator/health")) {
+            record(firstHealthMillis, "first successful /actuator/health");
+        } else if (!path.startsWith("/actuator")) {
+            record(firstRequestMillis, "first request served");
+        }
+    }
+
+    private void record(AtomicLong target, String event) {
+        long elapsed = System.currentTimeMillis() - jvmStartMillis;
+        if (target.compareAndSet(-1, elapsed)) {
+            log.info("Startup: {} after {} ms", event, elapsed);
+        }
+    }
+
+    private static double valueOf(AtomicLong millis) {
+        long value = millis.get();
+        return value < 0 ? Double.NaN : value;
+    }
+}
@@ -3,10 +3,12 @@ package com.lcdw.rating.controller;
 import com.lcdw.rating.entities.Rating;
 import com.lcdw.rating.services.RatingService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 
@@ -24,12 +26,14 @@ public class RatingController {
         return ResponseEntity.ok(ratingService.getAllRatings());
     }
     @GetMapping("/users/{userId}")
-    public ResponseEntity<List<Rating>> getRatingsByUser(@PathVariable String userId) {
-        return ResponseEntity.ok(ratingService.getRatingsByUserId(userId));
+    public ResponseEntity<List<Rating>> getRatingsByUser(@PathVariable String userId,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since) {
+        return ResponseEntity.ok(ratingService.getRatingsByUserId(userId, since));
     }
     @GetMapping("/hotel")
-    public ResponseEntity<List<Rating>> getRatingByHotel(@RequestParam(required = true) String ids){
+    public ResponseEntity<List<Rating>> getRatingByHotel(@RequestParam(required = true) String ids,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since){
         List<String> hotelIds = Arrays.asList(ids.split(","));
-        return ResponseEntity.ok(ratingService.getRatingsByHotelIds(hotelIds));
+        return ResponseEntity.ok(ratingService.getRatingsByHotelIds(hotelIds, since));
     }
 }
@@ -5,6 +5,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
 
 @Data
 @Entity
@@ -21,4 +24,8 @@ public class Rating {
     private Integer rating;
     @Column(name ="FEEDBACK")
     private String feedback;
+    // Range partition key of the partitioned layout, see db/partitioning
+    @CreationTimestamp
+    @Column(name ="CREATED_AT", nullable = false, updatable = false)
+    private Instant createdAt;
 }
@@ -2,10 +2,16 @@ package com.lcdw.rating.repositories;
 
 import com.lcdw.rating.entities.Rating;
 import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
 import java.util.List;
 public interface RatingRepository extends JpaRepository<Rating,String> {
+    // Visits every partition of either layout: no HOTEL_ID or CREATED_AT predicate
     List<Rating> findByUserId(String userId);
     List<Rating> findByHotelId(String hotelId);
     List<Rating> findByHotelIdIn(List<String> hotelIds);
+    // Bounded by CREATED_AT so range-partitioned tables only scan recent partitions
+    List<Rating> findByUserIdAndCreatedAtGreaterThanEqual(String userId, Instant since);
+    List<Rating> findByHotelIdInAndCreatedAtGreaterThanEqual(List<String> hotelIds, Instant since);
 
 }
@@ -0,0 +1,27 @@
+package com.lcdw.rating.routing;
+
+/**
+ * Hashes HOTEL_ID over a fixed number of databases.
+ */
+public class HashRatingShardRouter implements RatingShardRouter {
+
+    private final int shards;
+
+    public HashRatingShardRouter(int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("shards must be at least 1");
+        }
+        this.shards = shards;
+    }
+
+    @Override
+    public int shardCount() {
+        return shards;
+    }
+
+    @Override
+    public int shardFor(String hotelId) {
+        // String.hashCode is specified by the JLS, so the mapping is stable across JVMs
+        return Math.floorMod(hotelId.hashCode(), shards);
+    }
+}
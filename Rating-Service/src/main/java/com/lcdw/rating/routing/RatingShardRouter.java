@@ -0,0 +1,24 @@
+package com.lcdw.rating.routing;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Maps a hotel to the database shard holding its ratings. Every shard keeps its
+ * own partitioned micro_rating table; lookups by user have no shard key and
+ * must visit all shards. Not a bean and not configurable yet: Rating-Service has
+ * a single datasource, and routing only pays off once each shard has its own.
+ */
+public interface RatingShardRouter {
+
+    int shardCount();
+
+    int shardFor(String hotelId);
+
+    default Map<Integer, List<String>> groupByShard(Collection<String> hotelIds) {
+        return hotelIds.stream().collect(Collectors.groupingBy(this::shardFor, LinkedHashMap::new, Collectors.toList()));
+    }
+}
@@ -2,6 +2,7 @@ package com.lcdw.rating.services;
 
 import com.lcdw.rating.entities.Rating;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface RatingService {
@@ -10,4 +11,11 @@ public interface RatingService {
     List<Rating> getRatingsByUserId(String userId);
     List<Rating> getRatingByHotelId(String hotelId);
     List<Rating> getRatingsByHotelIds(List<String> hotelIds);
+    /**
+     * Ratings created at or after since, or all of them when since is null. Only a
+     * bounded call prunes the range layout; User-Service fetches a user's ratings
+     * without since because it shows all of them.
+     */
+    List<Rating> getRatingsByUserId(String userId, Instant since);
+    List<Rating> getRatingsByHotelIds(List<String> hotelIds, Instant since);
 }
@@ -6,6 +6,7 @@ import com.lcdw.rating.services.RatingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.List;
 @Service
 public class RatingServiceImpl implements RatingService {
@@ -35,4 +36,20 @@ public class RatingServiceImpl implements RatingService {
     public List<Rating> getRatingsByHotelIds(List<String> hotelIds) {
         return ratingRepository.findByHotelIdIn(hotelIds);
     }
+
+    @Override
+    public List<Rating> getRatingsByUserId(String userId, Instant since) {
+        if (since == null) {
+            return getRatingsByUserId(userId);
+        }
+        return ratingRepository.findByUserIdAndCreatedAtGreaterThanEqual(userId, since);
+    }
+
+    @Override
+    public List<Rating> getRatingsByHotelIds(List<String> hotelIds, Instant since) {
+        if (since == null) {
+            return getRatingsByHotelIds(hotelIds);
+        }
+        return ratingRepository.findByHotelIdInAndCreatedAtGreaterThanEqual(hotelIds, since);
+    }
 }
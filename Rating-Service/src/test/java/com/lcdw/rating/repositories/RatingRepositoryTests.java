@@ -0,0 +1,69 @@
+package com.lcdw.rating.repositories;
+
+import com.lcdw.rating.entities.Rating;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class RatingRepositoryTests {
+
+	private static final Instant SINCE = Instant.parse("2026-01-01T00:00:00Z");
+
+	@Autowired
+	private RatingRepository ratingRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@BeforeEach
+	void setUp() {
+		save("r1", "user-1", "hotel-a", "2025-06-01T00:00:00Z");
+		save("r2", "user-1", "hotel-b", "2026-02-01T00:00:00Z");
+		save("r3", "user-2", "hotel-a", "2026-01-01T00:00:00Z");
+		save("r4", "user-2", "hotel-c", "2026-03-01T00:00:00Z");
+		entityManager.clear();
+	}
+
+	@Test
+	void findsUserRatingsCreatedSince() {
+		assertEquals(List.of("r1", "r2"), ids(ratingRepository.findByUserId("user-1")));
+		assertEquals(List.of("r2"), ids(ratingRepository.findByUserIdAndCreatedAtGreaterThanEqual("user-1", SINCE)));
+	}
+
+	@Test
+	void findsHotelRatingsCreatedSinceIncludingTheBound() {
+		List<String> hotelIds = List.of("hotel-a", "hotel-b");
+
+		assertEquals(List.of("r1", "r2", "r3"), ids(ratingRepository.findByHotelIdIn(hotelIds)));
+		assertEquals(List.of("r2", "r3"), ids(ratingRepository.findByHotelIdInAndCreatedAtGreaterThanEqual(hotelIds, SINCE)));
+	}
+
+	private void save(String id, String userId, String hotelId, String createdAt) {
+		Rating rating = new Rating();
+		rating.setRatingId(id);
+		rating.setUserId(userId);
+		rating.setHotelId(hotelId);
+		rating.setRating(4);
+		entityManager.persistAndFlush(rating);
+		// CREATED_AT is set by @CreationTimestamp and not updatable through the entity
+		entityManager.getEntityManager().createNativeQuery("UPDATE micro_rating SET CREATED_AT = ?1 WHERE ID = ?2")
+				.setParameter(1, Instant.parse(createdAt))
+				.setParameter(2, id)
+				.executeUpdate();
+	}
+
+	private static List<String> ids(List<Rating> ratings) {
+		return ratings.stream().map(Rating::getRatingId).sorted().toList();
+	}
+}
@@ -0,0 +1,53 @@
+package com.lcdw.rating.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashRatingShardRouterTests {
+
+	@Test
+	void singleShardRoutesEveryHotelToShardZero() {
+		HashRatingShardRouter router = new HashRatingShardRouter(1);
+
+		assertEquals(0, router.shardFor("hotel-a"));
+		assertEquals(Map.of(0, List.of("hotel-a", "hotel-b")), router.groupByShard(List.of("hotel-a", "hotel-b")));
+	}
+
+	@Test
+	void shardForIsStableAndInRange() {
+		HashRatingShardRouter router = new HashRatingShardRouter(4);
+
+		// "polygenelubricants".hashCode() is Integer.MIN_VALUE, which Math.abs would leave negative
+		for (String hotelId : List.of("hotel-a", "hotel-b", "", "polygenelubricants")) {
+			int shard = router.shardFor(hotelId);
+			assertTrue(shard >= 0 && shard < 4, hotelId + " routed to " + shard);
+			assertEquals(shard, router.shardFor(hotelId));
+		}
+		assertEquals(Math.floorMod("hotel-a".hashCode(), 4), router.shardFor("hotel-a"));
+	}
+
+	@Test
+	void groupByShardKeepsEveryHotelInRequestOrder() {
+		HashRatingShardRouter router = new HashRatingShardRouter(4);
+		List<String> hotelIds = List.of("h1", "h2", "h3", "h4", "h5", "h6", "h7", "h8");
+
+		Map<Integer, List<String>> groups = router.groupByShard(hotelIds);
+
+		assertEquals(hotelIds.size(), groups.values().stream().mapToInt(List::size).sum());
+		groups.forEach((shard, ids) -> {
+			ids.forEach(id -> assertEquals(shard, router.shardFor(id)));
+			assertEquals(hotelIds.stream().filter(ids::contains).toList(), ids);
+		});
+	}
+
+	@Test
+	void rejectsFewerThanOneShard() {
+		assertThrows(IllegalArgumentException.class, () -> new HashRatingShardRouter(0));
+	}
+}
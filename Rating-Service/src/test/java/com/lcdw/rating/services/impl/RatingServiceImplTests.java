@@ -0,0 +1,69 @@
+package com.lcdw.rating.services.impl;
+
+import com.lcdw.rating.entities.Rating;
+import com.lcdw.rating.repositories.RatingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RatingServiceImplTests {
+
+	private static final Instant SINCE = Instant.parse("2026-01-01T00:00:00Z");
+
+	@Mock
+	private RatingRepository ratingRepository;
+
+	@InjectMocks
+	private RatingServiceImpl ratingService;
+
+	private final List<Rating> ratings = List.of(new Rating());
+
+	@Test
+	void unboundedUserLookupUsesUnprunedQuery() {
+		when(ratingRepository.findByUserId("user-1")).thenReturn(ratings);
+
+		assertEquals(ratings, ratingService.getRatingsByUserId("user-1", null));
+		verify(ratingRepository).findByUserId("user-1");
+		verifyNoMoreInteractions(ratingRepository);
+	}
+
+	@Test
+	void boundedUserLookupFiltersByCreatedAt() {
+		when(ratingRepository.findByUserIdAndCreatedAtGreaterThanEqual("user-1", SINCE)).thenReturn(ratings);
+
+		assertEquals(ratings, ratingService.getRatingsByUserId("user-1", SINCE));
+		verify(ratingRepository).findByUserIdAndCreatedAtGreaterThanEqual("user-1", SINCE);
+		verifyNoMoreInteractions(ratingRepository);
+	}
+
+	@Test
+	void unboundedHotelLookupIsOneQuery() {
+		List<String> hotelIds = List.of("hotel-a", "hotel-b");
+		when(ratingRepository.findByHotelIdIn(hotelIds)).thenReturn(ratings);
+
+		assertEquals(ratings, ratingService.getRatingsByHotelIds(hotelIds, null));
+		verify(ratingRepository).findByHotelIdIn(hotelIds);
+		verifyNoMoreInteractions(ratingRepository);
+	}
+
+	@Test
+	void boundedHotelLookupFiltersByCreatedAt() {
+		List<String> hotelIds = List.of("hotel-a", "hotel-b");
+		when(ratingRepository.findByHotelIdInAndCreatedAtGreaterThanEqual(hotelIds, SINCE)).thenReturn(ratings);
+
+		assertEquals(ratings, ratingService.getRatingsByHotelIds(hotelIds, SINCE));
+		verify(ratingRepository).findByHotelIdInAndCreatedAtGreaterThanEqual(hotelIds, SINCE);
+		verifyNoMoreInteractions(ratingRepository);
+	}
+}
@@ -0,0 +1,7 @@
+package com.lcdw.service.registry.events;
+
+/**
+ * Instance status change pushed to registry listeners.
+ */
+public record RegistryChange(String appName, String instanceId, String status) {
+}
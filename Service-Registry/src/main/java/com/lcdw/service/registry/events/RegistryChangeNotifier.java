@@ -0,0 +1,105 @@
+package com.lcdw.service.registry.events;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes instance status changes to every registered instance that declares the
+ * {@value #LISTENER_METADATA_KEY} metadata, so clients can stop routing to a
+ * cancelled or DOWN instance without waiting for their next registry fetch.
+ * Registrations, cancellations and evictions arrive as Eureka events; status
+ * overrides are reported by {@link StatusOverrideFilter}. Every push carries the
+ * shared registry.events.token in the {@value #TOKEN_HEADER} header, and nothing
+ * is pushed while no token is configured.
+ */
+@Component
+public class RegistryChangeNotifier {
+
+    public static final String LISTENER_METADATA_KEY = "registry-events-path";
+    public static final String TOKEN_HEADER = "X-Registry-Token";
+
+    private static final Logger log = LoggerFactory.getLogger(RegistryChangeNotifier.class);
+
+    private final PeerAwareInstanceRegistry registry;
+    private final String token;
+    private final RestClient restClient;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "registry-change-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RegistryChangeNotifier(PeerAwareInstanceRegistry registry, @Value("${registry.events.token:}") String token) {
+        this.registry = registry;
+        this.token = token;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(1000);
+        requestFactory.setReadTimeout(1000);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        if (token.isBlank()) {
+            log.info("registry.events.token is not set, registry changes are not pushed");
+        }
+    }
+
+    @EventListener
+    public void onCanceled(EurekaInstanceCanceledEvent event) {
+        if (!event.isReplication()) {
+            publish(new RegistryChange(event.getAppName(), event.getServerId(), InstanceInfo.InstanceStatus.DOWN.name()));
+        }
+    }
+
+    @EventListener
+    public void onRegistered(EurekaInstanceRegisteredEvent event) {
+        InstanceInfo instance = event.getInstanceInfo();
+        if (!event.isReplication()) {
+            publish(new RegistryChange(instance.getAppName(), instance.getInstanceId(), instance.getStatus().name()));
+        }
+    }
+
+    public void publish(RegistryChange change) {
+        if (token.isBlank()) {
+            return;
+        }
+        executor.execute(() -> {
+            for (InstanceInfo listener : listeners()) {
+                String url = "http://" + listener.getHostName() + ":" + listener.getPort()
+                        + listener.getMetadata().get(LISTENER_METADATA_KEY);
+                try {
+                    restClient.post().uri(url).contentType(MediaType.APPLICATION_JSON).header(TOKEN_HEADER, token)
+                            .body(change).retrieve().toBodilessEntity();
+                } catch (Exception ex) {
+                    // Listeners still catch up through their regular delta fetch
+                    log.debug("Could not push {} to {}: {}", change, url, ex.getMessage());
+                }
+            }
+        });
+    }
+
+    private List<InstanceInfo> listeners() {
+        return registry.getApplications().getRegisteredApplications().stream()
+                .flatMap(application -> application.getInstances().stream())
+                .filter(instance -> instance.getStatus() == InstanceInfo.InstanceStatus.UP)
+                .filter(instance -> instance.getMetadata().containsKey(LISTENER_METADATA_KEY))
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
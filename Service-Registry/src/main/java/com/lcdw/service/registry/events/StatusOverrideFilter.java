@@ -0,0 +1,55 @@
+package com.lcdw.service.registry.events;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Eureka publishes no event for status overrides (PUT/DELETE
+ * /eureka/apps/{app}/{id}/status, e.g. OUT_OF_SERVICE while draining), so they
+ * are picked up here and pushed with the instance's resulting status. Ordered
+ * ahead of the Jersey filter, which handles /eureka/* without continuing the chain.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatusOverrideFilter extends OncePerRequestFilter {
+
+    private static final Pattern STATUS_PATH = Pattern.compile(".*/apps/([^/]+)/([^/]+)/status$");
+    private static final String REPLICATION_HEADER = "x-netflix-discovery-replication";
+
+    private final PeerAwareInstanceRegistry registry;
+    private final RegistryChangeNotifier notifier;
+
+    public StatusOverrideFilter(PeerAwareInstanceRegistry registry, RegistryChangeNotifier notifier) {
+        this.registry = registry;
+        this.notifier = notifier;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+
+        Matcher matcher = STATUS_PATH.matcher(request.getRequestURI());
+        boolean override = "PUT".equals(request.getMethod()) || "DELETE".equals(request.getMethod());
+        if (!override || !matcher.matches() || response.getStatus() >= 300
+                || "true".equals(request.getHeader(REPLICATION_HEADER))) {
+            return;
+        }
+        InstanceInfo instance = registry.getInstanceByAppAndId(matcher.group(1), matcher.group(2), false);
+        if (instance != null) {
+            notifier.publish(new RegistryChange(instance.getAppName(), instance.getInstanceId(), instance.getStatus().name()));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.lcdw.service.registry.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Eureka's REST API is served by Jersey's filter, which ends the chain; the
+ * first-request timing must still see it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RegistryRequestTimingTests {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void eurekaRequestIsRecordedAsFirstRequest() throws Exception {
+		HttpResponse<Void> response = HttpClient.newHttpClient().send(
+				HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/eureka/apps"))
+						.header("Accept", "application/json").build(),
+				HttpResponse.BodyHandlers.discarding());
+
+		assertEquals(200, response.statusCode());
+		assertFalse(Double.isNaN(meterRegistry.get("application.startup.first.request").timeGauge().value(TimeUnit.MILLISECONDS)));
+	}
+}
@@ -0,0 +1,117 @@
+package com.lcdw.service.registry.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Registers a listener standing in for User-Service and checks that cancellations
+ * and status overrides reach it as pushes, with the shared token, within a second or two.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "registry.events.token=test-token")
+class RegistryChangeNotifierTests {
+
+	private static final String APP = "HOTEL-SERVICE";
+	private static final long PUSH_BOUND_MILLIS = 2000;
+
+	@LocalServerPort
+	private int port;
+
+	private final HttpClient http = HttpClient.newHttpClient();
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final BlockingQueue<JsonNode> pushes = new LinkedBlockingQueue<>();
+	private HttpServer listener;
+
+	@BeforeEach
+	void startListener() throws Exception {
+		listener = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		listener.createContext("/registry-events", exchange -> {
+			ObjectNode event = (ObjectNode) mapper.readTree(exchange.getRequestBody());
+			event.put("token", exchange.getRequestHeaders().getFirst(RegistryChangeNotifier.TOKEN_HEADER));
+			pushes.add(event);
+			exchange.sendResponseHeaders(202, -1);
+			exchange.close();
+		});
+		listener.start();
+		register("USER-SERVICE", "user-1", listener.getAddress().getPort(),
+				",\"metadata\":{\"registry-events-path\":\"/registry-events\"}");
+	}
+
+	@AfterEach
+	void stopListener() {
+		listener.stop(0);
+	}
+
+	@Test
+	void cancellationIsPushed() throws Exception {
+		register(APP, "hotel-a", 9001, "");
+		awaitPush("hotel-a", "UP");
+
+		send(HttpRequest.newBuilder(eureka("/apps/" + APP + "/hotel-a")).DELETE());
+		JsonNode push = awaitPush("hotel-a", "DOWN");
+		assertEquals("test-token", push.get("token").asText());
+	}
+
+	@Test
+	void statusOverrideIsPushed() throws Exception {
+		register(APP, "hotel-b", 9002, "");
+		awaitPush("hotel-b", "UP");
+
+		send(HttpRequest.newBuilder(eureka("/apps/" + APP + "/hotel-b/status?value=OUT_OF_SERVICE"))
+				.PUT(HttpRequest.BodyPublishers.noBody()));
+		awaitPush("hotel-b", "OUT_OF_SERVICE");
+
+		send(HttpRequest.newBuilder(eureka("/apps/" + APP + "/hotel-b/status?value=UP")).DELETE());
+		awaitPush("hotel-b", "UP");
+	}
+
+	private JsonNode awaitPush(String instanceId, String status) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + PUSH_BOUND_MILLIS;
+		while (System.currentTimeMillis() < deadline) {
+			JsonNode push = pushes.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+			if (push != null && instanceId.equals(push.get("instanceId").asText()) && status.equals(push.get("status").asText())) {
+				return push;
+			}
+		}
+		return fail("no " + status + " push for " + instanceId + " within " + PUSH_BOUND_MILLIS + " ms");
+	}
+
+	private void register(String app, String id, int instancePort, String extra) throws Exception {
+		String body = "{\"instance\":{\"instanceId\":\"" + id + "\",\"hostName\":\"localhost\",\"app\":\"" + app + "\","
+				+ "\"ipAddr\":\"127.0.0.1\",\"vipAddress\":\"" + app.toLowerCase() + "\",\"status\":\"UP\","
+				+ "\"port\":{\"$\":" + instancePort + ",\"@enabled\":\"true\"},"
+				+ "\"dataCenterInfo\":{\"@class\":\"com.netflix.appinfo.InstanceInfo$DefaultDataCenterInfo\",\"name\":\"MyOwn\"},"
+				+ "\"leaseInfo\":{\"renewalIntervalInSecs\":5,\"durationInSecs\":15}" + extra + "}}";
+		send(HttpRequest.newBuilder(eureka("/apps/" + app))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body)));
+	}
+
+	private void send(HttpRequest.Builder request) throws Exception {
+		HttpResponse<Void> response = http.send(request.build(), HttpResponse.BodyHandlers.discarding());
+		assertTrue(response.statusCode() < 300, request.build().uri() + " failed: " + response.statusCode());
+	}
+
+	private URI eureka(String path) {
+		return URI.create("http://localhost:" + port + "/eureka" + path);
+	}
+}
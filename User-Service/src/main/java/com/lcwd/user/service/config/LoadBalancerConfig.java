@@ -0,0 +1,10 @@
+package com.lcwd.user.service.config;
+
+import com.lcwd.user.service.discovery.DiscoveryLoadBalancerConfig;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@LoadBalancerClients(defaultConfiguration = DiscoveryLoadBalancerConfig.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,44 @@
+package com.lcwd.user.service.controllers;
+
+import com.lcwd.user.service.discovery.PushedInstanceStatus;
+import com.lcwd.user.service.discovery.RegistryEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Receives instance status changes pushed by Service-Registry. Only requests
+ * carrying the shared registry.events.token are accepted, since a push can take
+ * any instance out of rotation.
+ */
+@RestController
+@RequestMapping("/registry-events")
+public class RegistryEventController {
+    public static final String TOKEN_HEADER = "X-Registry-Token";
+
+    @Autowired
+    private PushedInstanceStatus pushedInstanceStatus;
+
+    @Value("${registry.events.token:}")
+    private String token;
+
+    @PostMapping
+    public ResponseEntity<Void> onRegistryEvent(@RequestHeader(name = TOKEN_HEADER, required = false) String requestToken,
+                                                @RequestBody RegistryEvent event){
+        if (token.isBlank() || requestToken == null
+                || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), requestToken.getBytes(StandardCharsets.UTF_8))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        pushedInstanceStatus.apply(event);
+        return ResponseEntity.accepted().build();
+    }
+}
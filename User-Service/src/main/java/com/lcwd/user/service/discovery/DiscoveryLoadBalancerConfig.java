@@ -0,0 +1,23 @@
+package com.lcwd.user.service.discovery;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Load balancer client configuration applied to every Feign client, see
+ * {@link com.lcwd.user.service.config.LoadBalancerConfig}. Not annotated with
+ * {@code @Configuration} so it is only picked up by the load balancer child contexts.
+ */
+public class DiscoveryLoadBalancerConfig {
+
+    @Bean
+    public ServiceInstanceListSupplier discoveryClientServiceInstanceListSupplier(ConfigurableApplicationContext context,
+                                                                                  PushedInstanceStatus pushedInstanceStatus) {
+        return ServiceInstanceListSupplier.builder()
+                .withBlockingDiscoveryClient()
+                .withCaching()
+                .with((ctx, delegate) -> new PushedStatusServiceInstanceListSupplier(delegate, pushedInstanceStatus))
+                .build(context);
+    }
+}
@@ -0,0 +1,48 @@
+package com.lcwd.user.service.discovery;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Instances reported as not UP by registry pushes. An entry only has to bridge
+ * the gap until the instance is gone from the load balancer's own view (one
+ * registry fetch plus one load balancer cache TTL), so it expires after a small
+ * multiple of that. A lost UP push therefore only blocks a healthy instance briefly.
+ */
+@Component
+public class PushedInstanceStatus {
+
+    private static final int SAFETY_FACTOR = 3;
+
+    private final long expiryMillis;
+    private final Map<String, Long> downUntil = new ConcurrentHashMap<>();
+
+    public PushedInstanceStatus(@Value("${eureka.client.registry-fetch-interval-seconds:30}") int fetchIntervalSeconds,
+                                @Value("${spring.cloud.loadbalancer.cache.ttl:35s}") Duration cacheTtl) {
+        this.expiryMillis = SAFETY_FACTOR * (Duration.ofSeconds(fetchIntervalSeconds).plus(cacheTtl)).toMillis();
+    }
+
+    public void apply(RegistryEvent event) {
+        if ("UP".equals(event.getStatus())) {
+            downUntil.remove(event.getInstanceId());
+        } else {
+            downUntil.put(event.getInstanceId(), System.currentTimeMillis() + expiryMillis);
+        }
+    }
+
+    public boolean isDown(String instanceId) {
+        Long until = downUntil.get(instanceId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            downUntil.remove(instanceId, until);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.lcwd.user.service.discovery;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Drops instances that Service-Registry pushed as DOWN before the cached
+ * registry view has caught up.
+ */
+public class PushedStatusServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+    private final PushedInstanceStatus pushedInstanceStatus;
+
+    public PushedStatusServiceInstanceListSupplier(ServiceInstanceListSupplier delegate, PushedInstanceStatus pushedInstanceStatus) {
+        super(delegate);
+        this.pushedInstanceStatus = pushedInstanceStatus;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return getDelegate().get().map(instances -> instances.stream()
+                .filter(instance -> !pushedInstanceStatus.isDown(instance.getInstanceId()))
+                .toList());
+    }
+}
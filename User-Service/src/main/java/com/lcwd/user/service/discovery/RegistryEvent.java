@@ -0,0 +1,17 @@
+package com.lcwd.user.service.discovery;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Instance status change pushed by Service-Registry.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RegistryEvent {
+    private String appName;
+    private String instanceId;
+    private String status;
+}
@@ -0,0 +1,53 @@
+package com.lcwd.user.service.discovery;
+
+import com.netflix.discovery.BackupRegistry;
+import com.netflix.discovery.converters.wrappers.CodecWrappers;
+import com.netflix.discovery.shared.Applications;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Seeds the Eureka client from the last persisted registry snapshot when
+ * Service-Registry cannot be reached at startup. Eureka instantiates this class
+ * reflectively (eureka.client.backup-registry-impl), so the snapshot location is
+ * taken from the registry.snapshot.path system property or the
+ * REGISTRY_SNAPSHOT_PATH environment variable rather than from Spring properties.
+ */
+public class RegistrySnapshotBackupRegistry implements BackupRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrySnapshotBackupRegistry.class);
+
+    static final CodecWrappers.JacksonJson CODEC = new CodecWrappers.JacksonJson();
+
+    static Path snapshotPath() {
+        String path = System.getProperty("registry.snapshot.path", System.getenv("REGISTRY_SNAPSHOT_PATH"));
+        return Paths.get(path != null ? path : "registry-snapshot.json");
+    }
+
+    @Override
+    public Applications fetchRegistry() {
+        Path path = snapshotPath();
+        if (!Files.isReadable(path)) {
+            return null;
+        }
+        try {
+            Applications applications = CODEC.decode(Files.readString(path, StandardCharsets.UTF_8), Applications.class);
+            log.info("Service-Registry unreachable, routing from registry snapshot {}", path);
+            return applications;
+        } catch (IOException ex) {
+            log.warn("Could not read registry snapshot {}: {}", path, ex.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public Applications fetchRegistry(String[] includeRemoteRegions) {
+        return fetchRegistry();
+    }
+}
@@ -0,0 +1,62 @@
+package com.lcwd.user.service.discovery;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Applications;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Persists the fetched registry after every Eureka cache refresh that changed it,
+ * for {@link RegistrySnapshotBackupRegistry} to read on the next start.
+ */
+@Component
+public class RegistrySnapshotWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrySnapshotWriter.class);
+
+    private final EurekaClient eurekaClient;
+    private volatile Set<String> lastInstances = Set.of();
+
+    public RegistrySnapshotWriter(EurekaClient eurekaClient) {
+        this.eurekaClient = eurekaClient;
+    }
+
+    @EventListener
+    public void onRegistryRefreshed(HeartbeatEvent event) {
+        Applications applications = eurekaClient.getApplications();
+        // Not getAppsHashCode(): it only counts instances per status, so a replaced instance leaves it unchanged
+        Set<String> instances = applications.getRegisteredApplications().stream()
+                .flatMap(application -> application.getInstances().stream())
+                .map(RegistrySnapshotWriter::key)
+                .collect(Collectors.toSet());
+        if (instances.isEmpty() || instances.equals(lastInstances)) {
+            return;
+        }
+        Path path = RegistrySnapshotBackupRegistry.snapshotPath().toAbsolutePath();
+        try {
+            Path temp = Files.createTempFile(path.getParent(), "registry-snapshot", ".tmp");
+            Files.writeString(temp, RegistrySnapshotBackupRegistry.CODEC.encode(applications), StandardCharsets.UTF_8);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lastInstances = instances;
+        } catch (IOException ex) {
+            log.warn("Could not write registry snapshot {}: {}", path, ex.getMessage());
+        }
+    }
+
+    private static String key(InstanceInfo instance) {
+        return instance.getAppName() + "/" + instance.getInstanceId() + "/" + instance.getStatus()
+                + "/" + instance.getLastDirtyTimestamp();
+    }
+}
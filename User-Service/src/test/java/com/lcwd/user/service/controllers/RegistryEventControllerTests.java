@@ -0,0 +1,59 @@
+package com.lcwd.user.service.controllers;
+
+import com.lcwd.user.service.discovery.PushedInstanceStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RegistryEventControllerTests {
+
+	private static final String DOWN = "{\"appName\":\"HOTEL-SERVICE\",\"instanceId\":\"hotel-a\",\"status\":\"DOWN\"}";
+
+	private final PushedInstanceStatus pushedInstanceStatus = new PushedInstanceStatus(5, Duration.ofSeconds(5));
+	private final RegistryEventController controller = new RegistryEventController();
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(controller, "pushedInstanceStatus", pushedInstanceStatus);
+		ReflectionTestUtils.setField(controller, "token", "secret");
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+	@Test
+	void acceptsPushWithSharedToken() throws Exception {
+		mockMvc.perform(post("/registry-events").header(RegistryEventController.TOKEN_HEADER, "secret")
+						.contentType(MediaType.APPLICATION_JSON).content(DOWN))
+				.andExpect(status().isAccepted());
+		assertTrue(pushedInstanceStatus.isDown("hotel-a"));
+	}
+
+	@Test
+	void rejectsPushWithoutOrWithWrongToken() throws Exception {
+		mockMvc.perform(post("/registry-events").contentType(MediaType.APPLICATION_JSON).content(DOWN))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(post("/registry-events").header(RegistryEventController.TOKEN_HEADER, "guess")
+						.contentType(MediaType.APPLICATION_JSON).content(DOWN))
+				.andExpect(status().isForbidden());
+		assertFalse(pushedInstanceStatus.isDown("hotel-a"));
+	}
+
+	@Test
+	void rejectsAllPushesWhileNoTokenIsConfigured() throws Exception {
+		ReflectionTestUtils.setField(controller, "token", "");
+		mockMvc.perform(post("/registry-events").header(RegistryEventController.TOKEN_HEADER, "")
+						.contentType(MediaType.APPLICATION_JSON).content(DOWN))
+				.andExpect(status().isForbidden());
+		assertFalse(pushedInstanceStatus.isDown("hotel-a"));
+	}
+}
@@ -0,0 +1,237 @@
+package com.lcwd.user.service.discovery;
+
+import com.lcwd.user.service.config.LoadBalancerConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.netflix.eureka.http.EurekaClientHttpRequestFactorySupplier;
+import org.springframework.cloud.netflix.eureka.http.RestTemplateDiscoveryClientOptionalArgs;
+import org.springframework.cloud.netflix.eureka.http.RestTemplateTransportClientFactories;
+import org.springframework.cloud.netflix.eureka.server.EnableEurekaServer;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.lcwd.user.service.discovery.PushedInstanceStatusTests.event;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures how long a killed Hotel-Service instance keeps being handed out by
+ * User-Service's load balancer. An embedded Eureka server runs with
+ * Service-Registry's settings. The client context runs User-Service's load
+ * balancer chain (registry fetch, caching, {@link PushedStatusServiceInstanceListSupplier})
+ * with its fetch interval and cache TTL; neither context reads the application's
+ * own properties. The stub instances use the shipped lease (5s renewals, 15s expiry)
+ * and are killed by stopping their heartbeats. When the registry evicts the
+ * instance, the push is applied directly to the client's {@link PushedInstanceStatus}
+ * instead of being sent over HTTP; the HTTP delivery is covered by
+ * Service-Registry's RegistryChangeNotifierTests.
+ */
+class DiscoveryPropagationTests {
+
+	private static final String APP = "HOTEL-SERVICE";
+	// Eureka counts the 15s lease twice after a renewal, plus up to one 5s heartbeat gap and one 5s eviction run
+	private static final long EVICTION_BOUND_MILLIS = 45_000;
+	// Pushed instances are dropped as soon as the registry evicts them
+	private static final long PUSH_DELAY_BOUND_MILLIS = 1_000;
+	// Without the push, the client also waits for one registry fetch (5s) and one load balancer cache TTL (5s)
+	private static final long PULL_BOUND_MILLIS = EVICTION_BOUND_MILLIS + 10_000 + 2_000;
+
+	// Keeps User-Service's application.properties (datasource, refresh settings) out of both contexts
+	private static final String ISOLATED = "spring.config.name=discovery-propagation-tests";
+
+	private static ConfigurableApplicationContext registry;
+	private static ConfigurableApplicationContext client;
+	private static ScheduledExecutorService heartbeats;
+	private static final Set<String> heartbeating = ConcurrentHashMap.newKeySet();
+	private static final HttpClient http = HttpClient.newHttpClient();
+	private static int registryPort;
+
+	@BeforeAll
+	static void start() throws Exception {
+		System.setProperty("registry.snapshot.path", Files.createTempDirectory("snapshot").resolve("registry.json").toString());
+
+		try (ServerSocket socket = new ServerSocket(0)) {
+			registryPort = socket.getLocalPort();
+		}
+		registry = new SpringApplicationBuilder(TestRegistry.class).properties(
+				ISOLATED,
+				"server.port=" + registryPort,
+				"spring.application.name=test-registry",
+				// Its own URL, which Eureka skips when looking for peers to replicate to
+				"eureka.client.serviceUrl.defaultZone=http://localhost:" + registryPort + "/eureka",
+				"eureka.client.register-with-eureka=false",
+				"eureka.client.fetch-registry=false",
+				// Service-Registry's application.properties
+				"eureka.server.use-read-only-response-cache=false",
+				"eureka.server.response-cache-update-interval-ms=3000",
+				"eureka.server.eviction-interval-timer-in-ms=5000",
+				"eureka.server.expected-client-renewal-interval-seconds=5",
+				// Self-preservation suspends eviction until a full minute of renewals has been seen
+				"eureka.server.enable-self-preservation=false"
+		).run();
+
+		register("hotel-a", 9001);
+		register("hotel-b", 9002);
+		heartbeats = Executors.newSingleThreadScheduledExecutor();
+		heartbeats.scheduleAtFixedRate(() -> heartbeating.forEach(DiscoveryPropagationTests::renew), 5, 5, TimeUnit.SECONDS);
+
+		client = new SpringApplicationBuilder(TestClient.class).web(WebApplicationType.NONE).properties(
+				ISOLATED,
+				"spring.application.name=test-client",
+				"eureka.client.serviceUrl.defaultZone=http://localhost:" + registryPort + "/eureka",
+				"eureka.client.register-with-eureka=false",
+				"spring.cloud.service-registry.auto-registration.enabled=false",
+				// User-Service's application.properties
+				"eureka.client.registry-fetch-interval-seconds=5",
+				"spring.cloud.loadbalancer.cache.ttl=5s"
+		).run();
+	}
+
+	@AfterAll
+	static void stop() {
+		if (heartbeats != null) {
+			heartbeats.shutdownNow();
+		}
+		if (client != null) {
+			client.close();
+		}
+		if (registry != null) {
+			registry.close();
+		}
+		System.clearProperty("registry.snapshot.path");
+	}
+
+	@Test
+	void killedInstanceStopsReceivingTraffic() throws Exception {
+		ServiceInstanceListSupplier supplier = client.getBean(LoadBalancerClientFactory.class)
+				.getInstance(APP, ServiceInstanceListSupplier.class);
+		assertTrue(supplier instanceof PushedStatusServiceInstanceListSupplier);
+		ServiceInstanceListSupplier withoutPush = ((PushedStatusServiceInstanceListSupplier) supplier).getDelegate();
+		PushedInstanceStatus pushedInstanceStatus = client.getBean(PushedInstanceStatus.class);
+
+		long start = System.currentTimeMillis();
+		while (!instanceIds(supplier).containsAll(List.of("hotel-a", "hotel-b"))) {
+			assertTrue(System.currentTimeMillis() - start < 30_000, "load balancer never saw both instances");
+			Thread.sleep(100);
+		}
+
+		Long[] evictedAt = new Long[1];
+		registry.addApplicationListener((ApplicationListener<ApplicationEvent>) event -> {
+			if (event instanceof EurekaInstanceCanceledEvent canceled && !canceled.isReplication()) {
+				evictedAt[0] = System.currentTimeMillis();
+				pushedInstanceStatus.apply(event(canceled.getServerId(), "DOWN"));
+			}
+		});
+
+		long killedAt = System.currentTimeMillis();
+		heartbeating.remove("hotel-a");
+
+		Long pushedAt = null;
+		Long pulledAt = null;
+		while ((pushedAt == null || pulledAt == null) && System.currentTimeMillis() - killedAt < PULL_BOUND_MILLIS + 5_000) {
+			long now = System.currentTimeMillis();
+			if (pushedAt == null && !instanceIds(supplier).contains("hotel-a")) {
+				pushedAt = now;
+			}
+			if (pulledAt == null && !instanceIds(withoutPush).contains("hotel-a")) {
+				pulledAt = now;
+			}
+			Thread.sleep(100);
+		}
+
+		assertNotNull(evictedAt[0], "registry never evicted the killed instance");
+		assertNotNull(pushedAt, "load balancer kept routing to the killed instance");
+		assertNotNull(pulledAt, "registry fetch never dropped the killed instance");
+		System.out.printf("Discovery propagation: evicted after %d ms, dropped by the load balancer %d ms after kill with push, %d ms without%n",
+				evictedAt[0] - killedAt, pushedAt - killedAt, pulledAt - killedAt);
+		assertTrue(evictedAt[0] - killedAt <= EVICTION_BOUND_MILLIS,
+				"eviction took " + (evictedAt[0] - killedAt) + " ms");
+		assertTrue(pushedAt - evictedAt[0] <= PUSH_DELAY_BOUND_MILLIS,
+				"pushed instance still routed " + (pushedAt - evictedAt[0]) + " ms after eviction");
+		assertTrue(pulledAt - killedAt <= PULL_BOUND_MILLIS,
+				"registry fetch took " + (pulledAt - killedAt) + " ms");
+		assertTrue(pushedAt <= pulledAt, "push was not faster than the registry fetch");
+		assertEquals(List.of("hotel-b"), instanceIds(supplier));
+	}
+
+	private static List<String> instanceIds(ServiceInstanceListSupplier supplier) {
+		return supplier.get().blockFirst().stream().map(ServiceInstance::getInstanceId).sorted().toList();
+	}
+
+	private static void register(String id, int port) throws Exception {
+		String body = "{\"instance\":{\"instanceId\":\"" + id + "\",\"hostName\":\"localhost\",\"app\":\"" + APP + "\","
+				+ "\"ipAddr\":\"127.0.0.1\",\"vipAddress\":\"" + APP + "\",\"status\":\"UP\","
+				+ "\"port\":{\"$\":" + port + ",\"@enabled\":\"true\"},"
+				+ "\"dataCenterInfo\":{\"@class\":\"com.netflix.appinfo.InstanceInfo$DefaultDataCenterInfo\",\"name\":\"MyOwn\"},"
+				+ "\"leaseInfo\":{\"renewalIntervalInSecs\":5,\"durationInSecs\":15}}}";
+		HttpResponse<Void> response = http.send(HttpRequest.newBuilder(eureka("/apps/" + APP))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.discarding());
+		assertTrue(response.statusCode() < 300, "registration failed: " + response.statusCode());
+		heartbeating.add(id);
+	}
+
+	private static void renew(String id) {
+		try {
+			http.send(HttpRequest.newBuilder(eureka("/apps/" + APP + "/" + id))
+					.PUT(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.discarding());
+		} catch (IOException | InterruptedException ignored) {
+		}
+	}
+
+	private static URI eureka(String path) {
+		return URI.create("http://localhost:" + registryPort + "/eureka" + path);
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration(exclude = DataSourceAutoConfiguration.class)
+	@EnableEurekaServer
+	static class TestRegistry {
+	}
+
+	@SpringBootConfiguration
+	@EnableAutoConfiguration(exclude = DataSourceAutoConfiguration.class)
+	@Import({PushedInstanceStatus.class, LoadBalancerConfig.class})
+	static class TestClient {
+
+		// The test-scoped Eureka server puts Jersey on the classpath, which switches off the
+		// RestTemplate transport User-Service uses in production; declare it explicitly
+		@Bean
+		RestTemplateDiscoveryClientOptionalArgs discoveryClientOptionalArgs(EurekaClientHttpRequestFactorySupplier requestFactorySupplier) {
+			return new RestTemplateDiscoveryClientOptionalArgs(requestFactorySupplier);
+		}
+
+		@Bean
+		RestTemplateTransportClientFactories transportClientFactories(RestTemplateDiscoveryClientOptionalArgs optionalArgs) {
+			return new RestTemplateTransportClientFactories(optionalArgs);
+		}
+	}
+}
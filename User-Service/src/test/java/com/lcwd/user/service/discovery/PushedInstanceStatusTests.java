@@ -0,0 +1,46 @@
+package com.lcwd.user.service.discovery;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PushedInstanceStatusTests {
+
+	static RegistryEvent event(String instanceId, String status) {
+		RegistryEvent event = new RegistryEvent();
+		event.setAppName("HOTEL-SERVICE");
+		event.setInstanceId(instanceId);
+		event.setStatus(status);
+		return event;
+	}
+
+	@Test
+	void downAndOutOfServiceMarkInstanceDownUntilUp() {
+		PushedInstanceStatus status = new PushedInstanceStatus(5, Duration.ofSeconds(5));
+
+		status.apply(event("hotel-a", "DOWN"));
+		status.apply(event("hotel-b", "OUT_OF_SERVICE"));
+		assertTrue(status.isDown("hotel-a"));
+		assertTrue(status.isDown("hotel-b"));
+		assertFalse(status.isDown("hotel-c"));
+
+		status.apply(event("hotel-a", "UP"));
+		assertFalse(status.isDown("hotel-a"));
+		assertTrue(status.isDown("hotel-b"));
+	}
+
+	@Test
+	void entriesExpireAfterFetchIntervalPlusCacheTtl() throws Exception {
+		// 3 x (0s fetch + 20ms cache) = 60ms
+		PushedInstanceStatus status = new PushedInstanceStatus(0, Duration.ofMillis(20));
+
+		status.apply(event("hotel-a", "DOWN"));
+		assertTrue(status.isDown("hotel-a"));
+
+		Thread.sleep(100);
+		assertFalse(status.isDown("hotel-a"));
+	}
+}
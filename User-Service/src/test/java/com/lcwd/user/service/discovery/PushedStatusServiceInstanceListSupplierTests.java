@@ -0,0 +1,43 @@
+package com.lcwd.user.service.discovery;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.lcwd.user.service.discovery.PushedInstanceStatusTests.event;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PushedStatusServiceInstanceListSupplierTests {
+
+	private final PushedInstanceStatus pushedInstanceStatus = new PushedInstanceStatus(5, Duration.ofSeconds(5));
+	private final ServiceInstanceListSupplier supplier = new PushedStatusServiceInstanceListSupplier(
+			ServiceInstanceListSuppliers.from("HOTEL-SERVICE", instance("hotel-a", 9001), instance("hotel-b", 9002)),
+			pushedInstanceStatus);
+
+	@Test
+	void passesThroughWithoutPushes() {
+		assertEquals(List.of("hotel-a", "hotel-b"), instanceIds());
+	}
+
+	@Test
+	void dropsInstancesPushedDownAndRestoresThemOnUp() {
+		pushedInstanceStatus.apply(event("hotel-a", "DOWN"));
+		assertEquals(List.of("hotel-b"), instanceIds());
+
+		pushedInstanceStatus.apply(event("hotel-a", "UP"));
+		assertEquals(List.of("hotel-a", "hotel-b"), instanceIds());
+	}
+
+	private List<String> instanceIds() {
+		return supplier.get().blockFirst().stream().map(ServiceInstance::getInstanceId).toList();
+	}
+
+	private static ServiceInstance instance(String instanceId, int port) {
+		return new DefaultServiceInstance(instanceId, "HOTEL-SERVICE", "localhost", port, false);
+	}
+}
@@ -0,0 +1,77 @@
+package com.lcwd.user.service.discovery;
+
+import com.netflix.appinfo.DataCenterInfo;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.MyDataCenterInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RegistrySnapshotBackupRegistryTests {
+
+	@TempDir
+	Path dir;
+
+	private Path snapshot;
+
+	@BeforeEach
+	void setUp() {
+		snapshot = dir.resolve("registry-snapshot.json");
+		System.setProperty("registry.snapshot.path", snapshot.toString());
+	}
+
+	@AfterEach
+	void tearDown() {
+		System.clearProperty("registry.snapshot.path");
+	}
+
+	// Fixed lastDirtyTimestamp: the builder stamps the current time, which would make equal registries differ
+	static Applications applications(String... instanceIds) {
+		Application application = new Application("HOTEL-SERVICE");
+		for (int i = 0; i < instanceIds.length; i++) {
+			application.addInstance(InstanceInfo.Builder.newBuilder()
+					.setAppName("HOTEL-SERVICE")
+					.setInstanceId(instanceIds[i])
+					.setHostName("localhost")
+					.setIPAddr("127.0.0.1")
+					.setPort(9001 + i)
+					.setVIPAddress("HOTEL-SERVICE")
+					.setDataCenterInfo(new MyDataCenterInfo(DataCenterInfo.Name.MyOwn))
+					.setLastDirtyTimestamp(1L)
+					.build());
+		}
+		Applications applications = new Applications();
+		applications.addApplication(application);
+		return applications;
+	}
+
+	@Test
+	void readsPersistedSnapshot() throws Exception {
+		Files.writeString(snapshot, RegistrySnapshotBackupRegistry.CODEC.encode(applications("hotel-a", "hotel-b")));
+
+		Applications restored = new RegistrySnapshotBackupRegistry().fetchRegistry();
+
+		assertNotNull(restored);
+		Application application = restored.getRegisteredApplications("HOTEL-SERVICE");
+		assertEquals(2, application.getInstances().size());
+		assertEquals(9002, application.getByInstanceId("hotel-b").getPort());
+	}
+
+	@Test
+	void returnsNullWithoutUsableSnapshot() throws Exception {
+		assertNull(new RegistrySnapshotBackupRegistry().fetchRegistry());
+
+		Files.writeString(snapshot, "{not json");
+		assertNull(new RegistrySnapshotBackupRegistry().fetchRegistry());
+	}
+}
@@ -0,0 +1,67 @@
+package com.lcwd.user.service.discovery;
+
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Applications;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.lcwd.user.service.discovery.RegistrySnapshotBackupRegistryTests.applications;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RegistrySnapshotWriterTests {
+
+	@TempDir
+	Path dir;
+
+	private Path snapshot;
+	private final EurekaClient eurekaClient = mock(EurekaClient.class);
+	private final RegistrySnapshotWriter writer = new RegistrySnapshotWriter(eurekaClient);
+
+	@BeforeEach
+	void setUp() {
+		snapshot = dir.resolve("registry-snapshot.json");
+		System.setProperty("registry.snapshot.path", snapshot.toString());
+	}
+
+	@AfterEach
+	void tearDown() {
+		System.clearProperty("registry.snapshot.path");
+	}
+
+	@Test
+	void rewritesOnlyWhenInstancesChange() throws Exception {
+		refresh(applications("hotel-a", "hotel-b"));
+		assertTrue(Files.exists(snapshot));
+
+		Files.delete(snapshot);
+		refresh(applications("hotel-a", "hotel-b"));
+		assertFalse(Files.exists(snapshot));
+
+		// Same instance count per status, but hotel-b was replaced by hotel-c
+		refresh(applications("hotel-a", "hotel-c"));
+		assertTrue(Files.exists(snapshot));
+		Applications restored = new RegistrySnapshotBackupRegistry().fetchRegistry();
+		assertNotNull(restored.getRegisteredApplications("HOTEL-SERVICE").getByInstanceId("hotel-c"));
+	}
+
+	@Test
+	void skipsEmptyRegistry() {
+		refresh(new Applications());
+		assertFalse(Files.exists(snapshot));
+	}
+
+	private void refresh(Applications applications) {
+		when(eurekaClient.getApplications()).thenReturn(applications);
+		writer.onRegistryRefreshed(new HeartbeatEvent(this, 1L));
+	}
+}
@@ -0,0 +1,64 @@
+#!/usr/bin/env bash
+# Startup-time report: launches a service jar, measures the time to the first
+# successful /actuator/health and to the first request served, and appends one
+# row to startup-report.csv so runs can be compared over time.
+#
+#   scripts/startup-report.sh <jar> <port> <request-path> [label]
+#   JAVA_OPTS="-XX:SharedArchiveFile=target/fast-start/app.jsa -Dspring.aot.enabled=true" \
+#     scripts/startup-report.sh Hotel-Service/target/fast-start/HotelService-0.0.1-SNAPSHOT-fast-start.jar 8082 /hotels fast-start
+#
+# The in-process timings logged by StartupTimingFilter (measured from JVM start)
+# are copied into the row next to the external ones (measured from launch).
+set -euo pipefail
+
+if [ $# -lt 3 ]; then
+    sed -n '2,11p' "$0"
+    exit 1
+fi
+
+jar=$1
+port=$2
+path=$3
+label=${4:-default}
+timeout_s=${STARTUP_TIMEOUT:-120}
+report=${STARTUP_REPORT:-startup-report.csv}
+log=$(mktemp)
+
+now_ms() { date +%s%3N; }
+
+# shellcheck disable=SC2086
+java ${JAVA_OPTS:-} -jar "$jar" >"$log" 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null; wait $pid 2>/dev/null; rm -f "$log"' EXIT
+start=$(now_ms)
+
+wait_for() {
+    local url=$1
+    while ! curl -fs -o /dev/null "$url"; do
+        if ! kill -0 $pid 2>/dev/null; then
+            echo "Service exited during startup, log:" >&2
+            cat "$log" >&2
+            exit 1
+        fi
+        if [ $(( $(now_ms) - start )) -gt $(( timeout_s * 1000 )) ]; then
+            echo "Timed out waiting for $url" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    echo $(( $(now_ms) - start ))
+}
+
+health_ms=$(wait_for "http://localhost:$port/actuator/health")
+request_ms=$(wait_for "http://localhost:$port$path")
+
+# Give the filter a moment to log both lines
+sleep 0.5
+jvm_health_ms=$(sed -n 's/.*Startup: first successful \/actuator\/health after \([0-9]*\) ms.*/\1/p' "$log" | head -1)
+jvm_request_ms=$(sed -n 's/.*Startup: first request served after \([0-9]*\) ms.*/\1/p' "$log" | head -1)
+
+if [ ! -f "$report" ]; then
+    echo "timestamp,jar,label,health_ms,first_request_ms,jvm_health_ms,jvm_first_request_ms" >"$report"
+fi
+echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$(basename "$jar"),$label,$health_ms,$request_ms,${jvm_health_ms:-},${jvm_request_ms:-}" >>"$report"
+tail -1 "$report"